@@ -9,6 +9,7 @@ public class AppConstants {
     public static final double BULLET_SPEED = 5;
     public static final int BULLET_SIZE = 5;
     public static final int RIPPLE_TIMER = 30;        // Determines how soon the ripple starts/shows up once the bullet is fired
+    public static final int RIPPLE_ARC_COUNT = 3;     // No of Wi-Fi arcs drawn for a ripple at full quality
 
 
     /*********** DefenseShooter class constants ******************/
@@ -42,4 +43,14 @@ public class AppConstants {
     public static final double FIXED_BULLET_DIRECTION_X = 0;
     public static final double FIXED_BULLET_DIRECTION_Y = -1;
 
+
+    /*********** FrameGovernor class constants ******************/
+    public static final long FRAME_BUDGET_NANOS = TIMER_CONSTANT * 1_000_000L;    // Time a tick + render may take before the game stutters
+    public static final double FRAME_HEADROOM_RATIO = 0.5;       // Frame must cost less than this share of the budget to count as headroom
+    public static final int FRAMES_OVER_BUDGET_TO_DEGRADE = 5;   // Consecutive slow frames needed before stepping down a level
+    public static final int FRAMES_UNDER_BUDGET_TO_RECOVER = 120; // Consecutive fast frames needed before stepping back up a level (~2 seconds)
+
+    public static final int RIPPLE_NEAR_RANGE = 150;       // Ripples further than this from the player are skipped when degraded
+    public static final long SOUND_THROTTLE_MILLIS = 250;  // Minimum gap between two plays of the same sound when throttled
+
 }
\ No newline at end of file
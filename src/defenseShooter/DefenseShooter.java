@@ -40,6 +40,9 @@ public class DefenseShooter extends JPanel implements ActionListener, KeyListene
     /*>>>>> Bullet firing status <<<<<*/
     private boolean canFire = true;
 
+    /*>>>>> Load shedding when ticks and renders miss the frame budget <<<<<*/
+    private final transient FrameGovernor governor = new FrameGovernor();
+
 
     /**
      * 1. Creating JFrame and assigning name - Defense Shooter
@@ -123,11 +126,13 @@ public class DefenseShooter extends JPanel implements ActionListener, KeyListene
      * 6. Draw bouncing bullets
      * 7. Restart logic
      * 8. Stopping the timer
+     * 9. Record render time with the frame governor
      *
      * @param g the <code>Graphics</code> object to protect
      */
     @Override
     public void paintComponent(Graphics g) {
+        long renderStart = System.nanoTime();
         super.paintComponent(g);
 
         /*>>>>>> Set background color in the frame <<<<<*/
@@ -139,6 +144,10 @@ public class DefenseShooter extends JPanel implements ActionListener, KeyListene
         g.drawString("Score: " + score, 10, 20);
         g.drawString("High Score: " + highScore, 10, 40);
 
+        /*>>>>>> Always show current degradation level, right aligned with the right wall <<<<<*/
+        String qualityText = "Quality: " + governor.getLevel().getLabel();
+        g.drawString(qualityText, AppConstants.RIGHT_WALL - g.getFontMetrics().stringWidth(qualityText), 20);
+
         /*>>>>>> Creating walls <<<<<*/
         g.setColor(Color.BLACK);
         g.drawRect(AppConstants.LEFT_WALL_BOUNDARY, AppConstants.TOP_WALL_BOUNDARY, AppConstants.WALL_WIDTH, AppConstants.WALL_HEIGHT);
@@ -149,14 +158,17 @@ public class DefenseShooter extends JPanel implements ActionListener, KeyListene
 
 
         /*>>>>>> Bullets <<<<<*/
+        // When degraded, dots are copied from a cached image instead of being drawn as ovals
+        boolean cachedDots = governor.isAtLeast(FrameGovernor.Level.CACHED_DOTS);
+
         //Drawing bullets which are just fired but not bounced yet with timer refresh
         for (Bullet b : bullets) {
-            b.drawBullet(g);
+            drawBullet(g, b, cachedDots);
         }
 
         //Drawing bouncing bullets on screen with timer refresh
         for (Bullet b : bouncingBullets) {
-            b.drawBullet(g);
+            drawBullet(g, b, cachedDots);
         }
 
 
@@ -180,15 +192,45 @@ public class DefenseShooter extends JPanel implements ActionListener, KeyListene
             /*>>>>>> Stopping timer. If the timer is not stopped, bullets will keep moving after game is over <<<<<*/
             timer.stop();
         }
+
+        governor.recordRender(System.nanoTime() - renderStart);
+    }
+
+    /**
+     * Draws a bullet with the savings of the current degradation level
+     * 1. Draw one ripple arc instead of three
+     * 2. Skip ripples of bullets far from the player
+     * 3. Copy dot from the cached image instead of drawing an oval
+     *
+     * @param g          : graphics object to draw on
+     * @param bullet     : bullet to draw
+     * @param cachedDots : true to use the cached dot image
+     */
+    private void drawBullet(Graphics g, Bullet bullet, boolean cachedDots) {
+        int arcCount = governor.isAtLeast(FrameGovernor.Level.SINGLE_RIPPLE_ARC) ? 1 : AppConstants.RIPPLE_ARC_COUNT;
+
+        if (governor.isAtLeast(FrameGovernor.Level.NEAR_RIPPLES_ONLY)
+                && !bullet.isWithinRange(playerX + (double) AppConstants.PLAYER_SIZE / 2, playerY + (double) AppConstants.PLAYER_SIZE / 2, AppConstants.RIPPLE_NEAR_RANGE)) {
+            arcCount = 0;   // Still keeps the ripple radius up to date for merging
+        }
+        bullet.drawRipple(g, arcCount);
+
+        if (cachedDots) {
+            bullet.drawCachedDot(g);
+        } else {
+            bullet.drawDot(g);
+        }
     }
 
     /**
      * This method takes care of all movements of player and bullets after a click happens.
+     * Time spent here is reported to the frame governor.
      *
      * @param e the event to be processed
      */
     @Override
     public void actionPerformed(ActionEvent e) {
+        long tickStart = System.nanoTime();
 
         // Update bullets
         for (Bullet bullet : bullets) {
@@ -232,6 +274,10 @@ public class DefenseShooter extends JPanel implements ActionListener, KeyListene
         keepPlayerInsideTheWalls();
 
         fireNewBulletWhenCTRLIsPressed();
+
+        /*>>>>>> Adjust degradation level to the time spent on this tick and the latest render <<<<<*/
+        governor.recordTick(System.nanoTime() - tickStart);
+        SoundManager.setThrottled(governor.isAtLeast(FrameGovernor.Level.THROTTLED_SOUNDS));
     }
 
     /**
@@ -375,6 +421,7 @@ public class DefenseShooter extends JPanel implements ActionListener, KeyListene
 
     /**
      * 1. Resetting all components except for highScore to re-start the game
+     * 2. Resetting frame governor and sound throttling, the new game starts with an empty arena
      */
     private void restartGame() {
         // Reset everything
@@ -387,6 +434,8 @@ public class DefenseShooter extends JPanel implements ActionListener, KeyListene
         restartButton.setVisible(false);
         this.remove(restartButton);
         restartButton = null;
+        governor.reset();
+        SoundManager.setThrottled(false);
         timer.start();
     }
 
@@ -0,0 +1,106 @@
+package defenseShooter;
+
+public class FrameGovernor {
+
+    /**
+     * Degradation levels, from full quality to the cheapest rendering. Every level keeps the savings of the levels before it.
+     */
+    public enum Level {
+        FULL("Full"),
+        SINGLE_RIPPLE_ARC("Single ripple arc"),
+        NEAR_RIPPLES_ONLY("Near ripples only"),
+        CACHED_DOTS("Cached dots"),
+        THROTTLED_SOUNDS("Throttled sounds");
+
+        private final String label;
+
+        Level(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private Level level = Level.FULL;
+
+    // Time spent by the latest paintComponent call. Rendering happens after the tick, so it's paired with the next tick.
+    // Cleared once used, so a render is counted at most once even when Swing merges repaints or paints outside a tick
+    private long lastRenderNanos;
+
+    /*>>>>> Hysteresis counters <<<<<*/
+    private int framesOverBudget;
+    private int framesUnderBudget;
+
+    /**
+     * Records how long the latest render took
+     *
+     * @param renderNanos : time spent in paintComponent
+     */
+    public void recordRender(long renderNanos) {
+        lastRenderNanos = renderNanos;
+    }
+
+    /**
+     * Records how long the latest tick took and adjusts the level
+     * 1. Frame cost is the tick time plus the latest render time
+     * 2. Step down a level after a run of frames over the budget
+     * 3. Step up a level after a long run of frames well under the budget
+     * 4. Frames in between reset both runs, so the level doesn't flap around the budget
+     * 5. Clear the render time, so it's not added to the next tick again
+     *
+     * @param tickNanos : time spent in actionPerformed
+     */
+    public void recordTick(long tickNanos) {
+        long frameNanos = tickNanos + lastRenderNanos;
+
+        if (frameNanos > AppConstants.FRAME_BUDGET_NANOS) {
+            framesUnderBudget = 0;
+            if (++framesOverBudget >= AppConstants.FRAMES_OVER_BUDGET_TO_DEGRADE && level.ordinal() < Level.values().length - 1) {
+                changeLevel(Level.values()[level.ordinal() + 1], frameNanos);
+            }
+        } else if (frameNanos < AppConstants.FRAME_BUDGET_NANOS * AppConstants.FRAME_HEADROOM_RATIO) {
+            framesOverBudget = 0;
+            if (++framesUnderBudget >= AppConstants.FRAMES_UNDER_BUDGET_TO_RECOVER && level != Level.FULL) {
+                changeLevel(Level.values()[level.ordinal() - 1], frameNanos);
+            }
+        } else {
+            framesOverBudget = 0;
+            framesUnderBudget = 0;
+        }
+
+        lastRenderNanos = 0;
+    }
+
+    /**
+     * Goes back to full quality and forgets all measurements, e.g. when a new game starts
+     */
+    public void reset() {
+        if (level != Level.FULL) {
+            System.out.printf("FrameGovernor: degradation level %s -> %s (reset)%n", level, Level.FULL);
+        }
+
+        level = Level.FULL;
+        framesOverBudget = 0;
+        framesUnderBudget = 0;
+        lastRenderNanos = 0;
+    }
+
+    private void changeLevel(Level newLevel, long frameNanos) {
+        System.out.printf("FrameGovernor: degradation level %s -> %s (frame took %.2f ms, budget %d ms)%n",
+                level, newLevel, frameNanos / 1_000_000.0, AppConstants.TIMER_CONSTANT);
+
+        level = newLevel;
+        framesOverBudget = 0;
+        framesUnderBudget = 0;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public boolean isAtLeast(Level other) {
+        return level.compareTo(other) >= 0;
+    }
+}
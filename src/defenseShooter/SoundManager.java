@@ -4,13 +4,25 @@ import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
 import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
 
 class SoundManager {
 
+    // When throttled, the same sound is not played again within SOUND_THROTTLE_MILLIS. Each play opens a new clip, which is costly
+    private static boolean throttled = false;
+    private static final Map<String, Long> lastPlayedAt = new HashMap<>();
+
     private SoundManager() {
     }
 
     public static void playSound(String soundFileName) {
+        long now = System.currentTimeMillis();
+        if (throttled && now - lastPlayedAt.getOrDefault(soundFileName, 0L) < AppConstants.SOUND_THROTTLE_MILLIS) {
+            return;
+        }
+        lastPlayedAt.put(soundFileName, now);
+
         try {
             AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(soundFileName).getAbsoluteFile());
             Clip clip = AudioSystem.getClip();
@@ -20,4 +32,8 @@ class SoundManager {
             System.out.println("Error playing sound: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    public static void setThrottled(boolean throttled) {
+        SoundManager.throttled = throttled;
+    }
+}